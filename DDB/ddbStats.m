@@ -0,0 +1,48 @@
+function report = ddbStats( reset )
+%DDBSTATS Returns a report of the usage of the deployment database since 
+% it was opened: query counts and latencies per table, rows returned, 
+% cache hit rate and connection pool usage.
+%
+% The same statistics are available through JMX (e.g. jconsole), as MBeans 
+% of the org.imos.ddb domain.
+%
+% Inputs:
+%   reset  - optional, if true the statistics are cleared once reported.
+%
+% Outputs:
+%   report - the report, or '' if the deployment database cannot be 
+%            opened.
+%
+% See Also openDDB and executeDDBQuery
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated 
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  narginchk(0,1);
+  if nargin < 1, reset = false; end
+  
+  report = '';
+  
+  try
+      ddb    = openDDB();
+      stats  = ddb.getStats();
+      report = char(stats.getReport());
+      if reset, stats.reset(); end
+  catch e
+  end
+end
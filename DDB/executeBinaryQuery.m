@@ -0,0 +1,127 @@
+function result = executeBinaryQuery( dirnm, table, field, value )
+%EXECUTEBINARYQUERY Alternative to executeDDBQuery, reading a DDB exported
+% as binary table files by org.imos.ddb.BinaryExporter (see exportDDB).
+%
+% Table files are read with memmapfile (see readTableFile), without going
+% through Java, and kept until they change.
+%
+% Inputs:
+%   dirnm  - The export directory.
+%
+%   table  - The table to query.
+%
+%   field  - Name of field on which to restrict query. If passed in as an
+%            empty matrix, the entire table is returned.
+%
+%   value  - Value of field on which to restrict query.
+%
+% Outputs:
+%   result - Vector of structs, each entry representing one tuple of the
+%            query result. null values are returned as empty matrices.
+%
+% See Also executeDDBQuery and exportDDB
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  narginchk(4,4);
+
+  if ~ischar(dirnm), error('dirnm must be a string'); end
+  if ~ischar(table), error('table must be a string'); end
+  if ~isempty(field) ...
+  && ~ischar(field), error('field must be a string'); end
+
+  % tables read so far, with the name, size and date of their file, which
+  % is renamed by each export
+  persistent tables;
+  if isempty(tables), tables = containers.Map(); end
+
+  file = findTableFile(dirnm, table);
+  info = dir(file);
+  key  = lower(fullfile(dirnm, table));
+
+  cached = [];
+  if isKey(tables, key), cached = tables(key); end
+
+  if ~isempty(cached) && strcmp(cached.file, file) ...
+  && cached.bytes == info.bytes && cached.datenum == info.datenum
+    tbl = cached.tbl;
+  else
+    tbl = readTableFile(file);
+    tables(key) = struct('file', file, 'bytes', info.bytes, ...
+        'datenum', info.datenum, 'tbl', tbl);
+  end
+
+  % select the matching rows, ignoring case as the Java DDB
+  if isempty(field)
+    rows = true(tbl.rows, 1);
+  else
+    c = find(strcmpi(field, tbl.names), 1);
+    if isempty(c)
+      error(['field ' field ' not found in table ' table]);
+    end
+
+    col = tbl.columns{c};
+    if iscell(col)
+      if ~ischar(value), value = num2str(value); end
+      rows = strcmpi(col, value);
+    else
+      if ischar(value), value = str2double(value); end
+      rows = col == value;
+    end
+  end
+
+  result = struct([]);
+  nRows  = sum(rows);
+  if nRows == 0, return; end
+
+  nCols = length(tbl.names);
+  data  = cell(nRows, nCols);
+
+  for c = 1:nCols
+
+    col = tbl.columns{c};
+    col = col(rows);
+
+    if ~iscell(col)
+      vals = num2cell(col);
+      vals(isnan(col)) = {[]};
+      col = vals;
+    end
+
+    data(:, c) = col(:);
+  end
+
+  result = cell2struct(data, tbl.names, 2)';
+end
+
+function file = findTableFile( dirnm, table )
+%FINDTABLEFILE Returns the file of a table, from the index of the export.
+  fid = fopen(fullfile(dirnm, 'tables.txt'), 'r', 'n', 'UTF-8');
+  if fid == -1, error([dirnm ' is not a DDB export directory']); end
+
+  index = textscan(fid, '%s%s', 'Delimiter', '\t', 'Whitespace', '');
+  fclose(fid);
+
+  i = find(strcmpi(table, index{1}), 1);
+  if isempty(i)
+    error(['table ' table ' not found in ' dirnm]);
+  end
+
+  file = fullfile(dirnm, index{2}{i});
+end
@@ -52,125 +52,61 @@ function result = executeDDBQuery( table, field, value)
   if ~isempty(field) ...
   && ~ischar(field), error('field must be a string'); end
 
-  % in order to reduce the number of queries to the ddb (slow, we store 
-  % each result in a global structure so that we don't perform twice the 
-  % same query.
-  persistent ddbStruct;
-  if isempty(ddbStruct)
-      ddbStruct = struct;
-      ddbStruct.table = {};
-      ddbStruct.field = {};
-      ddbStruct.value = {};
-      ddbStruct.result = {};
-  else
-      iTable = strcmpi(table, ddbStruct.table);
-      if any(iTable)
-          iField = strcmpi(field, ddbStruct.field);
-          iField = iField & iTable;
-          if any(iField)
-              iValue = strcmpi(ddbStruct.value, num2str(value));
-              iValue = iValue & iField;
-              if any(iValue)
-                  result = ddbStruct.result{iValue};
-                  return;
-              end
-          end
-      end
-  end
+  % results are not kept here: in cache or preload mode (see openDDB) the
+  % DDB caches them itself, bounded and invalidated when the DDB changes
+  ddb = openDDB();
   
   % execute the query - the java method returns 
-  % an ArrayList of org.imos.ddb.schema.* objects.
-  source     = '';
-  driver     = '';
-  connection = '';
-  dbuser     = '';
-  dbpassword = '';
-  try 
-      source     = readProperty('toolbox.ddb');
-      driver     = readProperty('toolbox.ddb.driver');
-      connection = readProperty('toolbox.ddb.connection');
-      dbuser     = readProperty('toolbox.ddb.user');
-      dbpassword = readProperty('toolbox.ddb.password');
-  catch e
-  end
-  
-  if isempty(connection)
-      ddb = org.imos.ddb.DDB.getDDB(source);
-  else
-      ddb = org.imos.ddb.DDB.getDDB(driver, connection, dbuser, dbpassword);
-  end
-  
-  result = ddb.executeQuery(table, field, value);
+  % an org.imos.ddb.ColumnarResult, holding the result column by column.
+  result = ddb.executeColumnarQuery(table, field, value);
   clear ddb;
 
-  % convert java objects to a vector of matlab structs
-  result = java2struct(result);
-  
-  % save result in structure
-  ddbStruct.table{end+1} = table;
-  ddbStruct.field{end+1} = field;
-  ddbStruct.value{end+1} = num2str(value);
-  ddbStruct.result{end+1} = result;
+  % convert java columns to a vector of matlab structs
+  result = columns2struct(result);
 end
 
-function strs = java2struct(list)
-%JAVA2STRUCT Converts a Java ArrayList which contains org.imos.ddb.DBObject
-% objects into equivalent Matlab structs. java.util.Date objects are
-% returned as matlab serial date values.
+function strs = columns2struct(cols)
+%COLUMNS2STRUCT Converts an org.imos.ddb.ColumnarResult into equivalent 
+% Matlab structs. Each column is converted in a single call across the 
+% Java/Matlab boundary. Numeric, boolean and date columns are returned as 
+% doubles (dates as matlab serial date values), other columns as strings. 
+% null values are returned as empty matrices.
 %
 % Inputs:
-%   list - a Java ArrayList containing org.imos.ddb.DBObject objects
+%   cols - a Java org.imos.ddb.ColumnarResult
 %
 % Outputs:
-%   strs - A vector of matlab structs which are equivalent to the java
-%          objects.
+%   strs - A vector of matlab structs, one per row of the result.
 %
   strs = struct([]);
   
-  if list.size() == 0, return; end;
+  nRows = cols.getRowCount();
+  if nRows == 0, return; end
+  
+  nCols = cols.getColumnCount();
+  names = cell(1, nCols);
+  data  = cell(nRows, nCols);
   
-  % We turn Java fields of arbitrary types into matlab fields
-  for k = 0:list.size()-1
+  for m = 1:nCols
     
-    obj = list.get(k);
+    names{m} = char(cols.getColumnName(m-1));
     
-    for m = 0:obj.size()-1
+    if cols.isNumeric(m-1)
       
-      fields = obj.get(m);
-      field = char(fields.name);
-      val   = fields.o;
+      val  = double(cols.getDoubles(m-1));
+      val  = val(:);
+      vals = num2cell(val);
+      vals(isnan(val)) = {[]};
       
-      % if java field is null
-      if isempty(val), strs(k+1).(field) = []; continue; end
+    else
       
-      % get class type of field
-      oClass = class(val);
+      % null strings are converted to empty matrices
+      vals = cell(cols.getStrings(m-1));
       
-      % turn java field value into matlab field 
-      % value, ignoring unsupported types
-      switch(oClass)
-        
-        case 'java.lang.String',
-          strs(k+1).(field) = char(val);
-        case 'java.lang.Double',
-          strs(k+1).(field) = double(val);
-        case 'java.lang.Integer',
-          strs(k+1).(field) = int32(val.intValue());
-        case 'java.lang.Boolean',
-          strs(k+1).(field) = double(val.booleanValue());
-        case {'java.util.Date','java.sql.Date','java.sql.Timestamp'}
-          cal = java.util.Calendar.getInstance();
-          cal.setTime(val);
-          strs(k+1).(field) = datenum(...
-            cal.get(java.util.Calendar.YEAR),...
-            cal.get(java.util.Calendar.MONTH)+1,...
-            cal.get(java.util.Calendar.DAY_OF_MONTH),...
-            cal.get(java.util.Calendar.HOUR_OF_DAY),...
-            cal.get(java.util.Calendar.MINUTE),...
-            cal.get(java.util.Calendar.SECOND));
-        otherwise
-          strs(k+1).(field) = val;
-      end
     end
+    
+    data(:, m) = vals(:);
   end
+  
+  strs = cell2struct(data, names, 2)';
 end
@@ -13,7 +13,7 @@ function result = executeQuery( table, field, value)
 % Outputs:
 %   result - Vector of structs.
 %
-% See Also executeDDBQuery and executeCSVQuery
+% See Also executeDDBQuery and executeBinaryQuery
 %
 %
 % Author:       Peter Jansen <peter.jansen@csiro.au>
@@ -37,16 +37,23 @@ function result = executeQuery( table, field, value)
 % If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
 %
 
-isDatabaseCSV = false;
-ddb = readProperty('toolbox.ddb');
-if isdir(ddb)
-    isDatabaseCSV = true;
+% a directory of binary table files (see exportDDB) is read directly with
+% memmapfile, without going through Java
+source = '';
+try
+    source = readProperty('toolbox.ddb');
+catch e
 end
-if isDatabaseCSV
-    result = executeCSVQuery(table, field,   value);
-else
-    result = executeDDBQuery(table, field,   value);
+
+if ~isempty(source) && exist(fullfile(source, 'tables.txt'), 'file')
+    result = executeBinaryQuery(source, table, field, value);
+    return;
 end
+
+% a directory of CSV files is also read through the Java DDB interface
+% (see Java/src/org/imos/ddb/CSVDDB.java), which parses each file once and
+% indexes it.
+result = executeDDBQuery(table, field,   value);
   
 end
 
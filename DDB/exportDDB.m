@@ -0,0 +1,38 @@
+function exportDDB( dirnm )
+%EXPORTDDB Exports every table of the DDB configured by the toolbox.ddb.*
+% properties as binary table files (see org.imos.ddb.BinaryExporter).
+%
+% Setting toolbox.ddb to the export directory then lets batch runs read
+% the tables with memmapfile (see executeBinaryQuery), without opening
+% the DDB through Java again.
+%
+% Inputs:
+%   dirnm - The directory to export to, created if needed.
+%
+% See Also executeBinaryQuery and openDDB
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  narginchk(1,1);
+
+  if ~ischar(dirnm), error('dirnm must be a string'); end
+
+  ddb = openDDB();
+  org.imos.ddb.BinaryExporter.export(ddb, dirnm);
+end
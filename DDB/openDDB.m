@@ -0,0 +1,55 @@
+function ddb = openDDB()
+%OPENDDB Returns a handle to the Java DDB interface, configured by the
+% toolbox.ddb.* properties.
+%
+% When toolbox.ddb.fallback is set, queries are answered from that copy of 
+% the DDB while the DDB is slow or unavailable (see FallbackDDB.java). The 
+% toolbox.ddb.timeout and toolbox.ddb.openTimeout properties limit the 
+% time (s) a query, and opening the DDB, may take.
+%
+% See Java/org/imos/ddb/DDB.java for more information.
+%
+% Outputs:
+%   ddb - an org.imos.ddb.DDB instance.
+%
+% See Also executeDDBQuery, prefetchDDB and readDDBProperties
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated 
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  props = readDDBProperties();
+  
+  setLimit(char(org.imos.ddb.DDB.QUERY_TIMEOUT_PROPERTY), props.timeout);
+  setLimit(char(org.imos.ddb.DDB.OPEN_TIMEOUT_PROPERTY),  props.openTimeout);
+  
+  if isempty(props.connection)
+      ddb = org.imos.ddb.DDB.getDDB(props.source, props.mode, props.fallback);
+  else
+      ddb = org.imos.ddb.DDB.getDDB(props.driver, props.connection, ...
+          props.user, props.password, props.fallback);
+  end
+end
+
+function setLimit( name, value )
+%SETLIMIT Sets (or clears, if empty) a DDB time limit system property.
+  if isempty(value)
+      java.lang.System.clearProperty(name);
+  else
+      java.lang.System.setProperty(name, strtrim(value));
+  end
+end
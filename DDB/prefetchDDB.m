@@ -0,0 +1,50 @@
+function future = prefetchDDB( fieldTripId )
+%PREFETCHDDB Starts loading the DDB records of the deployments of a field 
+% trip in the background, so that they are ready by the time they are 
+% queried.
+%
+% Returns immediately. Nothing is loaded unless the DDB caches the records 
+% (toolbox.ddb.mode is cache or preload), nor in profile mode, whose CTD 
+% casts are not deployments. Prefetching is only an optimisation, so any 
+% error is ignored.
+%
+% Inputs:
+%   fieldTripId - the field trip ID.
+%
+% Outputs:
+%   future - a java.util.concurrent.Future of the 
+%            org.imos.ddb.DeploymentGraph of the field trip, or [] if 
+%            nothing is loaded.
+%
+% See Also executeDDBQuery and openDDB
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated 
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  narginchk(1,1);
+  
+  future = [];
+  
+  try
+      if strcmpi(readProperty('toolbox.mode'), 'profile'), return; end
+      
+      ddb = openDDB();
+      future = ddb.prefetch(fieldTripId);
+  catch e
+  end
+end
@@ -0,0 +1,51 @@
+function props = readDDBProperties()
+%READDDBPROPERTIES Reads the toolbox.ddb.* properties which configure the
+% DDB (see openDDB).
+%
+% Missing properties are returned empty, as some of them (fallback,
+% timeout, openTimeout) are missing from older property files.
+%
+% Outputs:
+%   props - struct with fields source, driver, connection, user, password,
+%           mode, fallback, timeout and openTimeout.
+%
+% See Also openDDB and warmUpDDB
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  props = struct( ...
+      'source',      readOptional('toolbox.ddb'), ...
+      'driver',      readOptional('toolbox.ddb.driver'), ...
+      'connection',  readOptional('toolbox.ddb.connection'), ...
+      'user',        readOptional('toolbox.ddb.user'), ...
+      'password',    readOptional('toolbox.ddb.password'), ...
+      'mode',        readOptional('toolbox.ddb.mode'), ...
+      'fallback',    readOptional('toolbox.ddb.fallback'), ...
+      'timeout',     readOptional('toolbox.ddb.timeout'), ...
+      'openTimeout', readOptional('toolbox.ddb.openTimeout'));
+end
+
+function value = readOptional( name )
+%READOPTIONAL Reads a property, or returns '' if it is missing.
+  value = '';
+  try
+      value = readProperty(name);
+  catch e
+  end
+end
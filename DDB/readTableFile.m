@@ -0,0 +1,125 @@
+function tbl = readTableFile( file )
+%READTABLEFILE Reads a binary DDB table file, written by
+% org.imos.ddb.BinaryExporter (see Java/src/org/imos/ddb/TableFile.java
+% for the layout), through memmapfile, without going through Java.
+%
+% Inputs:
+%   file - the table file name.
+%
+% Outputs:
+%   tbl  - a struct with fields:
+%            names   - cell array of column names.
+%            rows    - number of rows.
+%            columns - cell array of columns: a double column vector for
+%                      numeric, boolean and date (matlab serial date)
+%                      columns, NaN for null values; a cell column of
+%                      strings for string columns, [] for null values.
+%
+% See Also executeBinaryQuery
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  narginchk(1,1);
+
+  if ~ischar(file), error('file must be a string'); end
+
+  % kind of string columns, see org.imos.ddb.ColumnarResult
+  STRING = 1;
+
+  % the header is small, and read sequentially
+  fid = fopen(file, 'r', 'ieee-le');
+  if fid == -1, error(['cannot open ' file]); end
+
+  try
+    magic   = fread(fid, [1 8], '*char');
+    version = fread(fid, 1, 'int32');
+    if ~strcmp(magic, 'IMOSDDB1') || version ~= 1
+      error([file ' is not a DDB table file']);
+    end
+
+    nRows = fread(fid, 1, 'int32');
+    nCols = fread(fid, 1, 'int32');
+    fread(fid, 1, 'int32');
+
+    names   = cell(1, nCols);
+    kinds   = zeros(1, nCols);
+    offsets = zeros(1, nCols);
+    for c = 1:nCols
+      kinds(c)   = fread(fid, 1, 'int32');
+      len        = fread(fid, 1, 'int32');
+      offsets(c) = fread(fid, 1, 'int64');
+      names{c}   = native2unicode(fread(fid, [1 len], '*uint8'), 'UTF-8');
+      fseek(fid, pad(ftell(fid)) - ftell(fid), 'cof');
+    end
+    fclose(fid);
+  catch e
+    fclose(fid);
+    rethrow(e);
+  end
+
+  tbl         = struct;
+  tbl.names   = names;
+  tbl.rows    = nRows;
+  tbl.columns = cell(1, nCols);
+
+  for c = 1:nCols
+
+    if kinds(c) ~= STRING
+
+      tbl.columns{c} = zeros(nRows, 1);
+      if nRows > 0
+        m = memmapfile(file, 'Offset', offsets(c), ...
+          'Format', {'double', [nRows 1], 'v'}, 'Repeat', 1);
+        tbl.columns{c} = m.Data.v;
+      end
+      continue;
+    end
+
+    % one start offset and one length (-1 for null) per row, then the
+    % UTF-8 bytes of all the strings
+    tbl.columns{c} = cell(nRows, 1);
+    if nRows == 0, continue; end
+
+    m = memmapfile(file, 'Offset', offsets(c), ...
+      'Format', {'int32', [nRows 1], 'start'; 'int32', [nRows 1], 'len'}, ...
+      'Repeat', 1);
+    starts = double(m.Data.start);
+    lens   = double(m.Data.len);
+
+    nBytes = sum(lens(lens > 0));
+    bytes  = uint8([]);
+    if nBytes > 0
+      m = memmapfile(file, 'Offset', offsets(c) + pad(8*nRows), ...
+        'Format', 'uint8', 'Repeat', nBytes);
+      bytes = m.Data';
+    end
+
+    vals = tbl.columns{c};
+    for r = 1:nRows
+      if lens(r) < 0, continue; end
+      vals{r} = native2unicode(bytes(starts(r)+1 : starts(r)+lens(r)), 'UTF-8');
+    end
+    tbl.columns{c} = vals;
+  end
+end
+
+function n = pad(n)
+%PAD Rounds a length up to a multiple of 8.
+  n = ceil(n / 8) * 8;
+end
@@ -0,0 +1,47 @@
+function future = warmUpDDB()
+%WARMUPDDB Starts opening the DDB configured by the toolbox.ddb.*
+% properties in the background, so that the first DDB query of the session
+% does not pay for loading the database driver and opening the database.
+%
+% Returns immediately; a message is printed once the DDB is ready. Warming
+% up is only an optimisation, so any error is ignored.
+%
+% Outputs:
+%   future - a java.util.concurrent.Future of the org.imos.ddb.DDB, or [].
+%
+% See Also openDDB, prefetchDDB and readDDBProperties
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  future = [];
+
+  props = readDDBProperties();
+
+  if isempty(props.source) && isempty(props.connection), return; end
+
+  try
+      if isempty(props.connection)
+          future = org.imos.ddb.DDB.warmUp(props.source, props.mode);
+      else
+          future = org.imos.ddb.DDB.warmUp(props.driver, props.connection, ...
+              props.user, props.password);
+      end
+  catch e
+  end
+end
@@ -187,4 +187,8 @@ for i=1:lenMooring
     end
     fprintf('%s\n', 'done.')
 end
-disp(' ');
\ No newline at end of file
+disp(' ');
+
+% report how the deployment database was used during the run
+stats = ddbStats();
+if ~isempty(stats), disp(stats); end
@@ -59,8 +59,12 @@ function sample_data = makeNetCDFCompliant( sample_data )
   % get infos from current field trip
   globalAttributeFile = ['global_attributes_' mode '.txt'];
 
+  % the DDB tokens of each template are resolved once for all the
+  % dimensions/variables
+  ddbCache = containers.Map();
+
   globAtts = parseNetCDFTemplate(...
-    fullfile(path, globalAttributeFile), sample_data);
+    fullfile(path, globalAttributeFile), sample_data, [], ddbCache);
 
   % merge global atts into sample_data
   sample_data = mergeAtts(sample_data, globAtts);
@@ -120,10 +124,10 @@ function sample_data = makeNetCDFCompliant( sample_data )
     % check for specificly defined variables
     temp = fullfile(path, [lower(dim.name) '_attributes.txt']);
     if exist(temp, 'file')
-        dimAtts = parseNetCDFTemplate(temp, sample_data);
+        dimAtts = parseNetCDFTemplate(temp, sample_data, [], ddbCache);
     else
         temp = fullfile(path, 'dimension_attributes.txt');
-        dimAtts = parseNetCDFTemplate(temp, sample_data, k);
+        dimAtts = parseNetCDFTemplate(temp, sample_data, k, ddbCache);
     end
     
     % merge dimension atts back into dimension struct
@@ -141,10 +145,10 @@ function sample_data = makeNetCDFCompliant( sample_data )
     % check for specificly defined variables
     temp = fullfile(path, [lower(var.name) '_attributes.txt']);
     if exist(temp, 'file')
-        varAtts = parseNetCDFTemplate(temp, sample_data);
+        varAtts = parseNetCDFTemplate(temp, sample_data, [], ddbCache);
     else
         temp = fullfile(path, 'variable_attributes.txt');
-        varAtts = parseNetCDFTemplate(temp, sample_data, k);
+        varAtts = parseNetCDFTemplate(temp, sample_data, k, ddbCache);
     end
     
     % merge variable atts back into variable struct
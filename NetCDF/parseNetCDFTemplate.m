@@ -1,4 +1,4 @@
-function template = parseNetCDFTemplate ( file, sample_data, k )
+function template = parseNetCDFTemplate ( file, sample_data, k, ddbCache )
 %PARSETEMPLATE Parses the given NetCDF attribute template file.
 %
 % Parses the given NetCDF attribute template file, inserting data into 
@@ -141,6 +141,13 @@ function template = parseNetCDFTemplate ( file, sample_data, k )
 %   k           - Optional. If the template is a data attribute template, 
 %                 this value is an index into the variables vectors in the 
 %                 sample_data struct to the corresponding variable struct.
+%                 May be empty.
+%
+%   ddbCache    - Optional. containers.Map in which the resolved DDB tokens
+%                 of each template file are kept (see resolveDDBTokens), so
+%                 that a template parsed for each variable of the same
+%                 sample_data is only resolved once. It must only be shared
+%                 between calls for the same sample_data.
 %
 % Outputs:
 %   template    - Struct containing the attribute-value pairs that were 
@@ -166,42 +173,55 @@ function template = parseNetCDFTemplate ( file, sample_data, k )
 % along with this program.
 % If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
 %
-  narginchk(2, 3);
+  narginchk(2, 4);
 
   if ~ischar(file),                error('file must be a string');        end
   if ~isstruct(sample_data),       error('sample_data must be a struct'); end
-  if nargin == 3 && ~isnumeric(k), error('k must be numeric');            end
+  if nargin >= 3 && ~isnumeric(k), error('k must be numeric');            end
+  if nargin == 4 && ~isa(ddbCache, 'containers.Map')
+    error('ddbCache must be a containers.Map');
+  end
 
   dateFmt = readProperty('toolbox.timeFormat');
   qcSet   = str2double(readProperty('toolbox.qc_set'));
   qcType  = imosQCFlag('', qcSet, 'type');
 
   % if k isn't provided, provide a dummy value
-  if nargin == 2, k = 1; end
+  if nargin < 3 || isempty(k), k = 1; end
   
   fid = -1;
+  line = '';
 
   try 
-    % open file for reading
+    % read the whole file at once
     fid = fopen(file, 'rt');
-    line = '';
     if fid == -1, error(['couldn''t open ' file ' for reading']); end
+    text = fread(fid, inf, '*char')';
+    fclose(fid);
+    fid = -1;
 
     template = struct;
 
-    % read in and parse each line
-    line = fgetl(fid);
-    while ischar(line)
+    % resolve the DDB tokens of all the attributes at once
+    if nargin == 4 && isKey(ddbCache, file)
+      ddbValues = ddbCache(file);
+    else
+      ddbValues = resolveDDBTokens(text, sample_data);
+      if nargin == 4, ddbCache(file) = ddbValues; end
+    end
+
+    % parse each line
+    lines = regexp(text, '\r?\n', 'split');
+    for i = 1:length(lines)
+
+      line = lines{i};
 
       % extract the attribute name and value
       tkns = regexp(line, ...
         '^\s*(.*\S)\s*,\s*(.*\S)\s*=\s*(.*\S)?\s*$', 'tokens');
 
       % ignore bad lines
-      if isempty(tkns), 
-        line = fgetl(fid);
-        continue; 
-      end
+      if isempty(tkns), continue; end
 
       type = tkns{1}{1};
       name = tkns{1}{2};
@@ -215,16 +235,11 @@ function template = parseNetCDFTemplate ( file, sample_data, k )
       % underscore from the name start, and put it at the name end. We can 
       % reverse this process when the NetCDF file is exported.
       if name(1) == '_', name = [name(2:end) '_']; end
-      template.(name) = parseAttributeValue(val, sample_data, k);
+      template.(name) = parseAttributeValue(val, sample_data, k, ddbValues);
       
       % cast to correct type
       template.(name) = castAtt(template.(name), type, qcType, dateFmt);
-
-      % get the next line
-      line = fgetl(fid);
     end
-
-    fclose(fid);
   catch e
     if fid ~= -1, fclose(fid); end
     disp(line);
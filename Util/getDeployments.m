@@ -62,6 +62,10 @@ if isempty(fieldTrip) && isempty(dataDir), return; end
 
 fId = fieldTrip.FieldTripID;
 
+% start loading the sites, instruments and sensors of this field trip in 
+% the background, while deployments are processed
+prefetchDDB(fId);
+
 % query the ddb/csv file for all deployments related to this field trip
 deployments = executeQuery('DeploymentData', 'EndFieldTrip', fId);
 
@@ -1,4 +1,4 @@
-function value = parseAttributeValue(line, sample_data, k)
+function value = parseAttributeValue(line, sample_data, k, ddbValues)
 %PARSEATTRIBUTEVALUE Parse an attribute value.
 %
 % Parses an attribute value as read from a template file. Searches for and 
@@ -10,6 +10,8 @@ function value = parseAttributeValue(line, sample_data, k)
 %   line        - the line to parse.
 %   sample_data - A single struct containing sample data. 
 %   k           - Index into sample_data.variable vector.
+%   ddbValues   - Optional. containers.Map of the values of DDB tokens
+%                 resolved beforehand (see resolveDDBTokens).
 %
 % Outputs:
 %
@@ -35,6 +37,8 @@ function value = parseAttributeValue(line, sample_data, k)
 % along with this program.
 % If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
 %
+  if nargin < 4, ddbValues = []; end
+
   sIdx = 1;
   
   value = line;
@@ -71,7 +75,7 @@ function value = parseAttributeValue(line, sample_data, k)
       if depth ~= 0, error('parentheses imbalance'); end
       
       % valid token found, so parse it
-      tknResult = parseToken(value(sIdx:eIdx), sample_data, k);
+      tknResult = parseToken(value(sIdx:eIdx), sample_data, k, ddbValues);
       
       % need to deal with error mesage from non existent fields in struct
       if any(strfind(tknResult, 'Reference to non-existent field'))
@@ -88,7 +92,7 @@ function value = parseAttributeValue(line, sample_data, k)
   end
 end
 
-function result = parseToken(tkn, sample_data, k)
+function result = parseToken(tkn, sample_data, k, ddbValues)
 %PARSETOKEN Evaluates a single token from an attribute value.
 %
 % This function makes a recursive call to parseAttributeValue, to account for 
@@ -99,6 +103,7 @@ function result = parseToken(tkn, sample_data, k)
 %   line        - the token to parse.
 %   sample_data - A single struct containing sample data. 
 %   k           - Index into sample_data.variable vector.
+%   ddbValues   - containers.Map of resolved DDB tokens, or [].
 %
 % Outputs:
 %
@@ -118,19 +123,19 @@ function result = parseToken(tkn, sample_data, k)
   % run through token contents recursively 
   % to replace any nested tokens
   switch type
-    case 'ddb', tkn = parseAttributeValue(tkn,             sample_data, k);
-    case 'mat', tkn = parseAttributeValue(tkn,             sample_data, k);
-    otherwise,  tkn = parseAttributeValue(result(2:end-1), sample_data, k);
+    case 'ddb', tkn = parseAttributeValue(tkn,             sample_data, k, ddbValues);
+    case 'mat', tkn = parseAttributeValue(tkn,             sample_data, k, ddbValues);
+    otherwise,  tkn = parseAttributeValue(result(2:end-1), sample_data, k, ddbValues);
   end
   
   switch type
-    case 'ddb', result = stringify(parseDDBToken(tkn, sample_data, k));
+    case 'ddb', result = stringify(parseDDBToken(tkn, sample_data, k, ddbValues));
     case 'mat', result = stringify(parseMatToken(tkn, sample_data, k));
     otherwise,  result = [result(1) tkn result(end)];
   end
 end
 
-function value = parseDDBToken(token, sample_data, k)
+function value = parseDDBToken(token, sample_data, k, ddbValues)
 %PARSEDDBTOKEN Parse a token pointing to the DDB.
 %
 % Interprets a token which contains a pointer to an entry in the deployment
@@ -141,6 +146,7 @@ function value = parseDDBToken(token, sample_data, k)
 %
 %   sample_data - A single struct containing sample data. 
 %   k           - Index into sample_data.variables vector.
+%   ddbValues   - containers.Map of resolved DDB tokens, or [].
 %
 % Outputs:
 %
@@ -149,6 +155,12 @@ function value = parseDDBToken(token, sample_data, k)
 
   value = '';
   
+  % resolved beforehand with the other tokens of the template
+  if ~isempty(ddbValues) && isKey(ddbValues, token)
+      value = ddbValues(token);
+      return;
+  end
+  
   % if there is no deployment database, set the value to an empty matrix
   ddb = readProperty('toolbox.ddb');
   driver = readProperty('toolbox.ddb.driver');
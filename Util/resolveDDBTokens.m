@@ -0,0 +1,110 @@
+function ddbValues = resolveDDBTokens(text, sample_data)
+%RESOLVEDDBTOKENS Resolves together the DDB tokens of a template.
+%
+% Finds all the [ddb Field RelatedTable RelatedPkey RelatedField] (or
+% [ddb Field RelatedTable RelatedField]) tokens of a template, and resolves
+% them with one DDB query per related table (see
+% Java/src/org/imos/ddb/TemplateResolver.java), rather than with one query
+% per token. The values are then used by parseAttributeValue.
+%
+% Tokens which cannot be resolved that way (e.g. nested tokens, tokens
+% whose field is missing or is not a text or number, or tokens referring to
+% a table or field which does not exist) are left out, and are resolved one
+% at a time by parseAttributeValue, which reports their errors. Any other
+% error (e.g. the DDB cannot be opened) is raised.
+%
+% Inputs:
+%
+%   text        - the template text.
+%   sample_data - A single struct containing sample data.
+%
+% Outputs:
+%
+%   ddbValues   - containers.Map of the value of each resolved token, by
+%                 token content (e.g. 'Site Sites SiteName'), [] if not
+%                 found.
+%
+
+%
+% Copyright (C) 2026, Australian Ocean Data Network (AODN) and Integrated
+% Marine Observing System (IMOS).
+%
+% This program is free software: you can redistribute it and/or modify
+% it under the terms of the GNU General Public License as published by
+% the Free Software Foundation version 3 of the License.
+%
+% This program is distributed in the hope that it will be useful,
+% but WITHOUT ANY WARRANTY; without even the implied warranty of
+% MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+% GNU General Public License for more details.
+% You should have received a copy of the GNU General Public License
+% along with this program.
+% If not, see <https://www.gnu.org/licenses/gpl-3.0.en.html>.
+%
+  ddbValues = containers.Map();
+
+  % if there is no deployment database, there is nothing to resolve
+  ddb = readProperty('toolbox.ddb');
+  driver = readProperty('toolbox.ddb.driver');
+  connection = readProperty('toolbox.ddb.connection');
+  if isempty(ddb) && (isempty(driver) || isempty(connection)), return; end
+
+  % get the relevant deployment/CTD cast
+  if isfield(sample_data.meta, 'profile')
+      deployment = sample_data.meta.profile;
+  else
+      deployment = sample_data.meta.deployment;
+  end
+
+  % nested tokens are left to parseAttributeValue
+  tokens = regexp(text, '\[ddb ([^\[\]]*)\]', 'tokens');
+  if isempty(tokens), return; end
+  tokens = unique(cellfun(@(t) t{1}, tokens, 'UniformOutput', false));
+
+  resolver = org.imos.ddb.TemplateResolver(openDDB());
+  names = {};
+
+  for i = 1:length(tokens)
+
+      % split the token up as parseAttributeValue does
+      tkns = regexp(tokens{i}, '\s+', 'split');
+
+      switch length(tkns)
+        case 3
+          field         = tkns{1};
+          related_table = tkns{2};
+          related_pkey  = field;
+          related_field = tkns{3};
+        case 4
+          field         = tkns{1};
+          related_table = tkns{2};
+          related_pkey  = tkns{3};
+          related_field = tkns{4};
+        otherwise
+          continue;
+      end
+
+      if ~isfield(deployment, field), continue; end
+
+      field_value = deployment.(field);
+      if isempty(field_value), continue; end
+
+      % only text and numbers can be passed on to the DDB
+      if ~ischar(field_value) && ~(isscalar(field_value) && ...
+              (isnumeric(field_value) || islogical(field_value)))
+          continue;
+      end
+
+      resolver.add(tokens{i}, related_table, related_pkey, related_field, field_value);
+      names{end+1} = tokens{i};
+  end
+
+  if isempty(names), return; end
+
+  values = resolver.resolve();
+  for i = 1:length(names)
+      if values.containsKey(names{i})
+          ddbValues(names{i}) = values.get(names{i});
+      end
+  end
+end
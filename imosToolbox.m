@@ -78,6 +78,9 @@ for j = 1 : length(jars)
     javaaddpath(jars{j});
 end
 
+% start opening the DDB while the user fills in the start dialog
+warmUpDDB();
+
 switch auto
   case 'auto',    autoIMOSToolbox(toolboxVersion, varargin{:});
   otherwise,      flowManager(toolboxVersion);